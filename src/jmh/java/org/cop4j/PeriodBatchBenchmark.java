@@ -0,0 +1,60 @@
+package org.cop4j;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PeriodBatchBenchmark {
+
+  @Param({"100000"})
+  private int contracts;
+
+  @Param({"60"})
+  private int numberOfMonths;
+
+  private long[] fromEpochDays;
+
+  private int[] numberOfMonthsArray;
+
+  @Setup
+  public void setUp() {
+
+    var data = new Contracts(LocalDate.parse("2020-01-01"), contracts, c -> numberOfMonths);
+
+    fromEpochDays = data.fromEpochDays;
+    numberOfMonthsArray = data.numberOfMonths;
+  }
+
+  @Benchmark
+  public void perObject(Blackhole blackhole) {
+
+    for (int c = 0; c < contracts; c++) {
+      for (var monthlyPeriod : new Period(LocalDate.ofEpochDay(fromEpochDays[c]), numberOfMonthsArray[c])
+          .getMonthlyPeriods()) {
+        blackhole.consume(monthlyPeriod);
+      }
+    }
+  }
+
+  @Benchmark
+  public PeriodBatch batch() {
+    return new PeriodBatch(fromEpochDays, numberOfMonthsArray);
+  }
+}
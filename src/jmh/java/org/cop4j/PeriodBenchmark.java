@@ -0,0 +1,78 @@
+package org.cop4j;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.cop4j.Period.MonthlyPeriod;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PeriodBenchmark {
+
+  // PeriodTest の起算日: 月初、月の途中、月末(28日、29日、30日、31日)
+  @Param({"2020-02-01", "2020-01-15", "2021-02-28", "2020-02-29", "2020-04-30", "2021-07-31"})
+  private String from;
+
+  @Param({"12", "600"})
+  private int numberOfMonths;
+
+  private LocalDate fromDate;
+
+  private LocalDate lookupDate;
+
+  private Period period;
+
+  @Setup
+  public void setUp() {
+    fromDate = LocalDate.parse(from);
+    lookupDate = fromDate.plusDays(numberOfMonths * 15L);
+    period = new Period(fromDate, numberOfMonths);
+  }
+
+  @Benchmark
+  public Period construct() {
+    return new Period(fromDate, numberOfMonths);
+  }
+
+  @Benchmark
+  public CompactPeriod constructCompact() {
+    return new CompactPeriod(fromDate, numberOfMonths);
+  }
+
+  @Benchmark
+  public void iterateMonthlyPeriods(Blackhole blackhole) {
+
+    for (MonthlyPeriod monthlyPeriod : new Period(fromDate, numberOfMonths).getMonthlyPeriods()) {
+      blackhole.consume(monthlyPeriod);
+    }
+  }
+
+  @Benchmark
+  public void iterateEpochDays(Blackhole blackhole) {
+
+    for (int i = 0; i < period.getNumberOfMonths(); i++) {
+      blackhole.consume(period.fromEpochDay(i));
+      blackhole.consume(period.toEpochDay(i));
+    }
+  }
+
+  @Benchmark
+  public int monthsOf() {
+    return Period.monthsOf(fromDate, lookupDate).orElse(0);
+  }
+}
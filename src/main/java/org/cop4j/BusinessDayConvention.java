@@ -0,0 +1,33 @@
+package org.cop4j;
+
+public enum BusinessDayConvention {
+
+  FOLLOWING {
+    @Override
+    public long adjust(HolidayCalendar calendar, long epochDay) {
+      return calendar.nextBusinessDay(epochDay);
+    }
+  },
+
+  PRECEDING {
+    @Override
+    public long adjust(HolidayCalendar calendar, long epochDay) {
+      return calendar.previousBusinessDay(epochDay);
+    }
+  },
+
+  MODIFIED_FOLLOWING {
+    @Override
+    public long adjust(HolidayCalendar calendar, long epochDay) {
+
+      var following = calendar.nextBusinessDay(epochDay);
+
+      // 翌営業日が翌月になる場合は前営業日とする
+      return EpochDays.toPackedDate(following) >> 5 == EpochDays.toPackedDate(epochDay) >> 5
+          ? following
+          : calendar.previousBusinessDay(epochDay);
+    }
+  };
+
+  public abstract long adjust(HolidayCalendar calendar, long epochDay);
+}
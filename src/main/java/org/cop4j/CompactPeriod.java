@@ -0,0 +1,146 @@
+package org.cop4j;
+
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.RandomAccess;
+import org.cop4j.Period.MonthlyPeriod;
+
+public class CompactPeriod {
+
+  // boundaries[0] は起算日、boundaries[i] は i 番目の期間の初日(期間の延長・切り出しで共有する)
+  private final int[] boundaries;
+
+  private final int offset;
+
+  private final int numberOfMonths;
+
+  public CompactPeriod(LocalDate from, Integer numberOfMonths) {
+    var startNanos = PeriodInstrumentation.ENABLED ? System.nanoTime() : 0L;
+    this.boundaries = calcBoundaries(
+        Optional.ofNullable(from)
+            .orElseThrow(() -> new IllegalArgumentException("[from] is required.")),
+        Optional.ofNullable(numberOfMonths)
+            .orElseThrow(() -> new IllegalArgumentException("[numberOfMonths] is required.")));
+    this.offset = 0;
+    this.numberOfMonths = this.boundaries.length - 1;
+    if (PeriodInstrumentation.ENABLED) {
+      PeriodInstrumentation.constructed("CompactPeriod", boundaries[0], this.numberOfMonths, startNanos);
+    }
+  }
+
+  private CompactPeriod(int[] boundaries, int offset, int numberOfMonths) {
+    this.boundaries = boundaries;
+    this.offset = offset;
+    this.numberOfMonths = numberOfMonths;
+  }
+
+  public CompactPeriod extend(int months) {
+
+    if (months < 0) {
+      throw new IllegalArgumentException("[months] must not be negative.");
+    }
+
+    var numberOfMonths = Math.addExact(this.numberOfMonths, months);
+    var length = Math.addExact(offset + numberOfMonths, 1);
+
+    if (months == 0) {
+      return this;
+    }
+    if (length <= boundaries.length) {
+      return new CompactPeriod(boundaries, offset, numberOfMonths);
+    }
+
+    // 計算済みの境界は複製し、延長した分だけを計算する
+    var extended = Arrays.copyOf(boundaries, length);
+    var from = EpochDays.toPackedDate(boundaries[0]);
+
+    for (int i = boundaries.length; i < length; i++) {
+      extended[i] = toIntExact(EpochDays.startOfMonth(
+          EpochDays.year(from), EpochDays.month(from), EpochDays.dayOfMonth(from), i));
+    }
+    return new CompactPeriod(extended, offset, numberOfMonths);
+  }
+
+  public CompactPeriod slice(int fromIndex, int toIndex) {
+
+    Objects.checkFromToIndex(fromIndex, toIndex, numberOfMonths);
+
+    return fromIndex == 0 && toIndex == numberOfMonths
+        ? this
+        : new CompactPeriod(boundaries, offset + fromIndex, toIndex - fromIndex);
+  }
+
+  static int[] calcBoundaries(LocalDate from, int numberOfMonths) {
+
+    if (numberOfMonths < 0) {
+      throw new IllegalArgumentException("[numberOfMonths] must not be negative.");
+    }
+
+    var boundaries = new int[numberOfMonths + 1];
+
+    for (int i = 0; i < boundaries.length; i++) {
+      boundaries[i] = toIntExact(EpochDays.startOfMonth(
+          from.getYear(), from.getMonthValue(), from.getDayOfMonth(), i));
+    }
+    return boundaries;
+  }
+
+  static int toIntExact(long epochDay) {
+
+    if (epochDay < Integer.MIN_VALUE || epochDay > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("[epochDay] is out of range: " + epochDay);
+    }
+    return (int) epochDay;
+  }
+
+  public LocalDate getFrom() {
+    return LocalDate.ofEpochDay(boundaries[offset]);
+  }
+
+  public int getNumberOfMonths() {
+    return numberOfMonths;
+  }
+
+  public long fromEpochDay(int i) {
+    if (PeriodInstrumentation.ENABLED) {
+      PeriodInstrumentation.accessed();
+    }
+    return boundaries[offset + Objects.checkIndex(i, numberOfMonths)];
+  }
+
+  public long toEpochDay(int i) {
+    if (PeriodInstrumentation.ENABLED) {
+      PeriodInstrumentation.accessed();
+    }
+    return boundaries[offset + Objects.checkIndex(i, numberOfMonths) + 1] - 1L;
+  }
+
+  public MonthlyPeriod getMonthlyPeriod(int i) {
+    if (PeriodInstrumentation.ENABLED) {
+      PeriodInstrumentation.accessed();
+    }
+    var j = offset + Objects.checkIndex(i, numberOfMonths);
+    return new MonthlyPeriod(j + 1, LocalDate.ofEpochDay(boundaries[j]), LocalDate.ofEpochDay(boundaries[j + 1] - 1L));
+  }
+
+  public List<MonthlyPeriod> getMonthlyPeriods() {
+    return new MonthlyPeriods();
+  }
+
+  private class MonthlyPeriods extends AbstractList<MonthlyPeriod> implements RandomAccess {
+
+    @Override
+    public MonthlyPeriod get(int index) {
+      return getMonthlyPeriod(index);
+    }
+
+    @Override
+    public int size() {
+      return numberOfMonths;
+    }
+  }
+}
@@ -0,0 +1,38 @@
+package org.cop4j;
+
+public enum DayCountConvention {
+
+  ACTUAL {
+    @Override
+    public long dayCount(long startEpochDay, long endEpochDay) {
+      return endEpochDay - startEpochDay;
+    }
+  },
+
+  // 30/360 (ISDA): 31 日は 30 日とみなす。終了日は開始日が 30 日以降の場合のみ補正する
+  THIRTY_360 {
+    @Override
+    public long dayCount(long startEpochDay, long endEpochDay) {
+
+      var start = EpochDays.toPackedDate(startEpochDay);
+      var end = EpochDays.toPackedDate(endEpochDay);
+      var startDay = Math.min(EpochDays.dayOfMonth(start), 30);
+      var endDay = startDay == 30 ? Math.min(EpochDays.dayOfMonth(end), 30) : EpochDays.dayOfMonth(end);
+
+      return 360L * (EpochDays.year(end) - EpochDays.year(start))
+          + 30L * (EpochDays.month(end) - EpochDays.month(start))
+          + (endDay - startDay);
+    }
+  },
+
+  // Actual/365 (Fixed): 年を常に 365 日とするのは年率換算の側で、日数の数え方は ACTUAL と同じ
+  ACTUAL_365 {
+    @Override
+    public long dayCount(long startEpochDay, long endEpochDay) {
+      return ACTUAL.dayCount(startEpochDay, endEpochDay);
+    }
+  };
+
+  // endEpochDay は期間の翌日(次の期間の初日)
+  public abstract long dayCount(long startEpochDay, long endEpochDay);
+}
@@ -0,0 +1,94 @@
+package org.cop4j;
+
+final class EpochDays {
+
+  // グレゴリオ暦は 400 年(4800 か月、146097 日)で一巡する
+  private static final int MONTHS_PER_CYCLE = 4800;
+
+  private static final int DAYS_PER_CYCLE = 146097;
+
+  private static final long EPOCH_DAY_OF_YEAR_ZERO = -719528;
+
+  // MONTH_STARTS[k] は 0 年 1 月 1 日から数えた k か月目の初日までの日数
+  private static final int[] MONTH_STARTS = calcMonthStarts();
+
+  private EpochDays() {
+  }
+
+  private static int[] calcMonthStarts() {
+
+    var monthStarts = new int[MONTHS_PER_CYCLE + 1];
+
+    for (int k = 0; k < MONTHS_PER_CYCLE; k++) {
+      monthStarts[k + 1] = monthStarts[k] + lengthOfMonth(k / 12, k % 12 + 1);
+    }
+    return monthStarts;
+  }
+
+  static long startOfMonth(int year, int month, int dayOfMonth, long i) {
+
+    var monthIndex = year * 12L + (month - 1) + i;
+    var cycle = Math.floorDiv(monthIndex, MONTHS_PER_CYCLE);
+    var k = (int) (monthIndex - cycle * MONTHS_PER_CYCLE);
+    var monthStart = MONTH_STARTS[k];
+    var lengthOfMonth = MONTH_STARTS[k + 1] - monthStart;
+
+    return EPOCH_DAY_OF_YEAR_ZERO + cycle * DAYS_PER_CYCLE + monthStart
+        + (dayOfMonth <= lengthOfMonth ? dayOfMonth - 1 : lengthOfMonth);
+  }
+
+  static long indexOf(long fromEpochDay, long epochDay) {
+
+    var from = toPackedDate(fromEpochDay);
+    var date = toPackedDate(epochDay);
+    var i = (year(date) - (long) year(from)) * 12 + (month(date) - month(from));
+
+    return epochDay < startOfMonth(year(from), month(from), dayOfMonth(from), i) ? i - 1 : i;
+  }
+
+  static int lengthOfMonth(long year, int month) {
+
+    switch (month) {
+      case 2:
+        return isLeapYear(year) ? 29 : 28;
+      case 4:
+      case 6:
+      case 9:
+      case 11:
+        return 30;
+      default:
+        return 31;
+    }
+  }
+
+  static boolean isLeapYear(long year) {
+    return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+  }
+
+  static long toPackedDate(long epochDay) {
+
+    var z = epochDay + 719468;
+    var era = Math.floorDiv(z, 146097L);
+    var dayOfEra = z - era * 146097;
+    var yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+    var dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+    var mp = (5 * dayOfYear + 2) / 153;
+    var dayOfMonth = dayOfYear - (153 * mp + 2) / 5 + 1;
+    var month = mp < 10 ? mp + 3 : mp - 9;
+    var year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+
+    return year << 9 | month << 5 | dayOfMonth;
+  }
+
+  static int year(long packedDate) {
+    return (int) (packedDate >> 9);
+  }
+
+  static int month(long packedDate) {
+    return (int) (packedDate >> 5) & 0xF;
+  }
+
+  static int dayOfMonth(long packedDate) {
+    return (int) packedDate & 0x1F;
+  }
+}
@@ -0,0 +1,91 @@
+package org.cop4j;
+
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+public class EventAssigner {
+
+  // カーソルから順に進める月数の上限。これを超える場合は暦の計算で求める
+  private static final int MAX_MERGE_STEPS = 4;
+
+  private final PeriodBatch batch;
+
+  public EventAssigner(PeriodBatch batch) {
+    this.batch = Optional.ofNullable(batch)
+        .orElseThrow(() -> new IllegalArgumentException("[batch] is required."));
+  }
+
+  public <T> Iterator<Assignment<T>> assign(Iterator<? extends T> events,
+      ToIntFunction<? super T> contractOf, ToLongFunction<? super T> epochDayOf) {
+
+    Optional.ofNullable(events)
+        .orElseThrow(() -> new IllegalArgumentException("[events] is required."));
+    Optional.ofNullable(contractOf)
+        .orElseThrow(() -> new IllegalArgumentException("[contractOf] is required."));
+    Optional.ofNullable(epochDayOf)
+        .orElseThrow(() -> new IllegalArgumentException("[epochDayOf] is required."));
+
+    // 契約ごとに直前のイベントが属した月を保持する(イベント数によらず契約数分のみ)
+    var cursors = new int[batch.size()];
+
+    return new Iterator<>() {
+
+      @Override
+      public boolean hasNext() {
+        return events.hasNext();
+      }
+
+      @Override
+      public Assignment<T> next() {
+
+        var event = events.next();
+        var contract = contractOf.applyAsInt(event);
+        var months = monthsOf(cursors, contract, epochDayOf.applyAsLong(event));
+
+        return new Assignment<>(event, contract, months);
+      }
+    };
+  }
+
+  private int monthsOf(int[] cursors, int contract, long epochDay) {
+
+    var numberOfMonths = batch.getNumberOfMonths(contract);
+    var offset = batch.getOffsets()[contract];
+    var boundaries = batch.getBoundaries();
+
+    if (epochDay < boundaries[offset] || epochDay >= boundaries[offset + numberOfMonths]) {
+      return 0;
+    }
+
+    var i = cursors[contract];
+
+    if (epochDay >= boundaries[offset + i]) {
+      for (int step = 0; step < MAX_MERGE_STEPS; step++, i++) {
+        if (epochDay < boundaries[offset + i + 1]) {
+          cursors[contract] = i;
+          return i + 1;
+        }
+      }
+    }
+
+    i = (int) EpochDays.indexOf(boundaries[offset], epochDay);
+    cursors[contract] = i;
+    return i + 1;
+  }
+
+  @Getter
+  @AllArgsConstructor
+  public static class Assignment<T> {
+
+    private final T event;
+
+    private final int contract;
+
+    // 契約の期間外のイベントは 0
+    private final int months;
+  }
+}
@@ -0,0 +1,173 @@
+package org.cop4j;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.cop4j.Period.MonthlyPeriod;
+
+public class HolidayCalendar {
+
+  private final long startEpochDay;
+
+  private final long endEpochDay;
+
+  // startEpochDay からの日数をビット位置とし、営業日のビットを立てる
+  private final long[] businessDays;
+
+  public HolidayCalendar(LocalDate start, LocalDate end, Collection<LocalDate> holidays) {
+
+    Optional.ofNullable(start)
+        .orElseThrow(() -> new IllegalArgumentException("[start] is required."));
+    Optional.ofNullable(end)
+        .orElseThrow(() -> new IllegalArgumentException("[end] is required."));
+    Optional.ofNullable(holidays)
+        .orElseThrow(() -> new IllegalArgumentException("[holidays] is required."));
+
+    if (end.isBefore(start)) {
+      throw new IllegalArgumentException("[end] must not be before [start].");
+    }
+
+    this.startEpochDay = start.toEpochDay();
+    this.endEpochDay = end.toEpochDay() + 1;
+    this.businessDays = new long[Math.toIntExact((endEpochDay - startEpochDay + 63) >>> 6)];
+
+    for (var date = start; !date.isAfter(end); date = date.plusDays(1)) {
+      if (date.getDayOfWeek() != DayOfWeek.SATURDAY && date.getDayOfWeek() != DayOfWeek.SUNDAY) {
+        set(date.toEpochDay());
+      }
+    }
+    for (var holiday : holidays) {
+      Optional.ofNullable(holiday)
+          .orElseThrow(() -> new IllegalArgumentException("[holiday] is required."));
+      if (!holiday.isBefore(start) && !holiday.isAfter(end)) {
+        clear(holiday.toEpochDay());
+      }
+    }
+  }
+
+  public static HolidayCalendar load(Path file, LocalDate start, LocalDate end) throws IOException {
+
+    Optional.ofNullable(file)
+        .orElseThrow(() -> new IllegalArgumentException("[file] is required."));
+
+    List<LocalDate> holidays;
+
+    try (var lines = Files.lines(file, StandardCharsets.UTF_8)) {
+      // 1 行に 1 日(ISO 形式)、空行と # 以降は無視する
+      holidays = lines
+          .map(line -> line.replaceFirst("#.*", "").strip())
+          .filter(line -> !line.isEmpty())
+          .map(LocalDate::parse)
+          .collect(Collectors.toList());
+    }
+    return new HolidayCalendar(start, end, holidays);
+  }
+
+  private void set(long epochDay) {
+    var index = epochDay - startEpochDay;
+    businessDays[(int) (index >>> 6)] |= 1L << index;
+  }
+
+  private void clear(long epochDay) {
+    var index = epochDay - startEpochDay;
+    businessDays[(int) (index >>> 6)] &= ~(1L << index);
+  }
+
+  private long indexOf(long epochDay) {
+
+    if (epochDay < startEpochDay || epochDay >= endEpochDay) {
+      throw new IllegalArgumentException(
+          "[" + LocalDate.ofEpochDay(epochDay) + "] is out of the calendar range.");
+    }
+    return epochDay - startEpochDay;
+  }
+
+  public LocalDate getStart() {
+    return LocalDate.ofEpochDay(startEpochDay);
+  }
+
+  public LocalDate getEnd() {
+    return LocalDate.ofEpochDay(endEpochDay - 1);
+  }
+
+  public boolean isBusinessDay(LocalDate date) {
+    return isBusinessDay(Optional.ofNullable(date)
+        .orElseThrow(() -> new IllegalArgumentException("[date] is required.")).toEpochDay());
+  }
+
+  public boolean isBusinessDay(long epochDay) {
+    var index = indexOf(epochDay);
+    return (businessDays[(int) (index >>> 6)] & 1L << index) != 0;
+  }
+
+  public long nextBusinessDay(long epochDay) {
+
+    var index = indexOf(epochDay);
+    var word = (int) (index >>> 6);
+    var bits = businessDays[word] & -1L << index;
+
+    while (bits == 0) {
+      if (++word == businessDays.length) {
+        throw new IllegalArgumentException(
+            "No business day on or after [" + LocalDate.ofEpochDay(epochDay) + "] in the calendar range.");
+      }
+      bits = businessDays[word];
+    }
+    return startEpochDay + ((long) word << 6) + Long.numberOfTrailingZeros(bits);
+  }
+
+  public long previousBusinessDay(long epochDay) {
+
+    var index = indexOf(epochDay);
+    var word = (int) (index >>> 6);
+    var bits = businessDays[word] & -1L >>> (63 - (index & 63));
+
+    while (bits == 0) {
+      if (--word < 0) {
+        throw new IllegalArgumentException(
+            "No business day on or before [" + LocalDate.ofEpochDay(epochDay) + "] in the calendar range.");
+      }
+      bits = businessDays[word];
+    }
+    return startEpochDay + ((long) word << 6) + 63 - Long.numberOfLeadingZeros(bits);
+  }
+
+  public int countBusinessDays(long fromEpochDay, long toEpochDay) {
+
+    if (toEpochDay < fromEpochDay) {
+      return 0;
+    }
+
+    var from = indexOf(fromEpochDay);
+    var to = indexOf(toEpochDay);
+    var fromWord = (int) (from >>> 6);
+    var toWord = (int) (to >>> 6);
+    var fromMask = -1L << from;
+    var toMask = -1L >>> (63 - (to & 63));
+
+    if (fromWord == toWord) {
+      return Long.bitCount(businessDays[fromWord] & fromMask & toMask);
+    }
+
+    var count = Long.bitCount(businessDays[fromWord] & fromMask);
+    for (int word = fromWord + 1; word < toWord; word++) {
+      count += Long.bitCount(businessDays[word]);
+    }
+    return count + Long.bitCount(businessDays[toWord] & toMask);
+  }
+
+  public int countBusinessDays(MonthlyPeriod monthlyPeriod) {
+
+    Optional.ofNullable(monthlyPeriod)
+        .orElseThrow(() -> new IllegalArgumentException("[monthlyPeriod] is required."));
+
+    return countBusinessDays(monthlyPeriod.getFrom().toEpochDay(), monthlyPeriod.getTo().toEpochDay());
+  }
+}
@@ -0,0 +1,102 @@
+package org.cop4j;
+
+import java.time.LocalDate;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import org.cop4j.Period.MonthlyPeriod;
+
+class MonthlyPeriodSpliterator implements Spliterator<MonthlyPeriod> {
+
+  private static final int MIN_SPLIT_SIZE = 64;
+
+  private final int year;
+
+  private final int month;
+
+  private final int dayOfMonth;
+
+  private int index;
+
+  private final int fence;
+
+  // 期間を限らない場合は fence が上限にすぎないため、要素数を SIZED として報告しない
+  private final boolean sized;
+
+  MonthlyPeriodSpliterator(LocalDate from, int index, int fence) {
+    this(from.getYear(), from.getMonthValue(), from.getDayOfMonth(), index, fence, true);
+  }
+
+  private MonthlyPeriodSpliterator(int year, int month, int dayOfMonth, int index, int fence,
+      boolean sized) {
+    this.year = year;
+    this.month = month;
+    this.dayOfMonth = dayOfMonth;
+    this.index = index;
+    this.fence = fence;
+    this.sized = sized;
+  }
+
+  static MonthlyPeriodSpliterator unbounded(LocalDate from) {
+    return new MonthlyPeriodSpliterator(from.getYear(), from.getMonthValue(), from.getDayOfMonth(), 0,
+        Integer.MAX_VALUE, false);
+  }
+
+  private MonthlyPeriod monthlyPeriod(int i) {
+
+    if (PeriodInstrumentation.ENABLED) {
+      PeriodInstrumentation.accessed();
+    }
+
+    var fromOfMonth = EpochDays.startOfMonth(year, month, dayOfMonth, i);
+    var toOfMonth = EpochDays.startOfMonth(year, month, dayOfMonth, i + 1L) - 1;
+
+    return new MonthlyPeriod(i + 1, LocalDate.ofEpochDay(fromOfMonth), LocalDate.ofEpochDay(toOfMonth));
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super MonthlyPeriod> action) {
+
+    if (index >= fence) {
+      return false;
+    }
+    action.accept(monthlyPeriod(index++));
+    return true;
+  }
+
+  @Override
+  public void forEachRemaining(Consumer<? super MonthlyPeriod> action) {
+
+    var i = index;
+    index = fence;
+
+    for (; i < fence; i++) {
+      action.accept(monthlyPeriod(i));
+    }
+  }
+
+  @Override
+  public Spliterator<MonthlyPeriod> trySplit() {
+
+    if (fence - index < MIN_SPLIT_SIZE) {
+      return null;
+    }
+
+    var middle = (index + fence) >>> 1;
+    var prefix = new MonthlyPeriodSpliterator(year, month, dayOfMonth, index, middle, sized);
+    index = middle;
+
+    return prefix;
+  }
+
+  @Override
+  public long estimateSize() {
+    return fence - index;
+  }
+
+  @Override
+  public int characteristics() {
+    return sized
+        ? ORDERED | DISTINCT | NONNULL | IMMUTABLE | SIZED | SUBSIZED
+        : ORDERED | DISTINCT | NONNULL | IMMUTABLE;
+  }
+}
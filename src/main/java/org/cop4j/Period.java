@@ -1,16 +1,27 @@
 package org.cop4j;
 
 import java.time.LocalDate;
+import java.util.AbstractList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.OptionalInt;
+import java.util.RandomAccess;
+import java.util.Spliterator;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 @Getter
 public class Period {
 
+  // 検索結果の OptionalInt を 100 年分まで使い回す
+  private static final OptionalInt[] MONTHS_CACHE = IntStream.rangeClosed(1, 1200)
+      .mapToObj(OptionalInt::of)
+      .toArray(OptionalInt[]::new);
+
   private final LocalDate from;
 
   private final Integer numberOfMonths;
@@ -18,45 +29,180 @@ public class Period {
   private final List<MonthlyPeriod> monthlyPeriods;
 
   public Period(LocalDate from, Integer numberOfMonths) {
+    var startNanos = PeriodInstrumentation.ENABLED ? System.nanoTime() : 0L;
     this.from = Optional.ofNullable(from)
         .orElseThrow(() -> new IllegalArgumentException("[from] is required."));
     this.numberOfMonths = Optional.ofNullable(numberOfMonths)
         .orElseThrow(() -> new IllegalArgumentException("[numberOfMonths] is required."));
-    this.monthlyPeriods = calcMonthlyPeriods();
+    this.monthlyPeriods = new MonthlyPeriods();
+    if (PeriodInstrumentation.ENABLED) {
+      PeriodInstrumentation.constructed("Period", this.from.toEpochDay(), monthlyPeriods.size(), startNanos);
+    }
+  }
+
+  public long fromEpochDay(int i) {
+    if (PeriodInstrumentation.ENABLED) {
+      PeriodInstrumentation.accessed();
+    }
+    return startOfMonth(Objects.checkIndex(i, monthlyPeriods.size()));
+  }
+
+  public long toEpochDay(int i) {
+    if (PeriodInstrumentation.ENABLED) {
+      PeriodInstrumentation.accessed();
+    }
+    return startOfMonth(Objects.checkIndex(i, monthlyPeriods.size()) + 1) - 1;
+  }
+
+  public List<MonthlyPeriod> getAdjustedMonthlyPeriods(HolidayCalendar calendar,
+      BusinessDayConvention convention) {
+
+    Optional.ofNullable(calendar)
+        .orElseThrow(() -> new IllegalArgumentException("[calendar] is required."));
+    Optional.ofNullable(convention)
+        .orElseThrow(() -> new IllegalArgumentException("[convention] is required."));
+
+    return new AdjustedMonthlyPeriods(calendar, convention);
+  }
+
+  public OptionalInt monthsOf(LocalDate date) {
+
+    var months = monthsOf(from, Optional.ofNullable(date)
+        .orElseThrow(() -> new IllegalArgumentException("[date] is required.")));
+
+    return months.isPresent() && months.getAsInt() <= numberOfMonths ? months : OptionalInt.empty();
+  }
+
+  // 起算日から期間を限らずに数えた月数。起算日より前の日付は empty
+  public static OptionalInt monthsOf(LocalDate from, LocalDate date) {
+
+    Optional.ofNullable(from)
+        .orElseThrow(() -> new IllegalArgumentException("[from] is required."));
+    Optional.ofNullable(date)
+        .orElseThrow(() -> new IllegalArgumentException("[date] is required."));
+
+    if (PeriodInstrumentation.ENABLED) {
+      return instrumentedMonthsOf(from.toEpochDay(), date.toEpochDay());
+    }
+    return toMonths(EpochDays.indexOf(from.toEpochDay(), date.toEpochDay()));
+  }
+
+  private static OptionalInt instrumentedMonthsOf(long fromEpochDay, long epochDay) {
+
+    var startNanos = System.nanoTime();
+    var index = EpochDays.indexOf(fromEpochDay, epochDay);
+
+    PeriodInstrumentation.lookedUp(fromEpochDay, epochDay, index + 1, startNanos);
+    return toMonths(index);
+  }
+
+  private static OptionalInt toMonths(long index) {
+
+    if (0 <= index && index < MONTHS_CACHE.length) {
+      return MONTHS_CACHE[(int) index];
+    }
+    return 0 <= index && index < Integer.MAX_VALUE ? OptionalInt.of((int) index + 1) : OptionalInt.empty();
+  }
+
+  public static Stream<MonthlyPeriod> stream(LocalDate from) {
+
+    Optional.ofNullable(from)
+        .orElseThrow(() -> new IllegalArgumentException("[from] is required."));
+
+    return StreamSupport.stream(MonthlyPeriodSpliterator.unbounded(from), false);
+  }
+
+  public Period extend(int months) {
+
+    if (months < 0) {
+      throw new IllegalArgumentException("[months] must not be negative.");
+    }
+    return months == 0 ? this : new Period(from, Math.addExact(numberOfMonths, months));
+  }
+
+  public CompactPeriod toCompact() {
+    return new CompactPeriod(from, monthlyPeriods.size());
+  }
+
+  private long startOfMonth(int i) {
+    return EpochDays.startOfMonth(from.getYear(), from.getMonthValue(), from.getDayOfMonth(), i);
+  }
+
+  private class MonthlyPeriods extends AbstractList<MonthlyPeriod> implements RandomAccess {
+
+    @Override
+    public MonthlyPeriod get(int index) {
+
+      Objects.checkIndex(index, size());
+
+      if (PeriodInstrumentation.ENABLED) {
+        PeriodInstrumentation.accessed();
+      }
+
+      var fromOfMonth = LocalDate.ofEpochDay(startOfMonth(index));
+      var toOfMonth = LocalDate.ofEpochDay(startOfMonth(index + 1) - 1);
+
+      return new MonthlyPeriod(index + 1, fromOfMonth, toOfMonth);
+    }
+
+    @Override
+    public int size() {
+      return Math.max(numberOfMonths, 0);
+    }
+
+    @Override
+    public Spliterator<MonthlyPeriod> spliterator() {
+      return new MonthlyPeriodSpliterator(from, 0, size());
+    }
   }
 
-  private List<MonthlyPeriod> calcMonthlyPeriods() {
+  private class AdjustedMonthlyPeriods extends AbstractList<MonthlyPeriod> implements RandomAccess {
+
+    private final HolidayCalendar calendar;
+
+    private final BusinessDayConvention convention;
 
-    var startOfMonths = IntStream.range(0, this.numberOfMonths + 1)
-        .mapToObj(i -> {
+    private AdjustedMonthlyPeriods(HolidayCalendar calendar, BusinessDayConvention convention) {
+      this.calendar = calendar;
+      this.convention = convention;
+    }
 
-          var nextMonth = from.plusMonths(i);
+    @Override
+    public MonthlyPeriod get(int index) {
 
-          return from.getDayOfMonth() <= nextMonth.lengthOfMonth()
-              ? nextMonth
-              : nextMonth.plusMonths(1).withDayOfMonth(1);
+      Objects.checkIndex(index, size());
 
-        }).collect(Collectors.toList());
+      if (PeriodInstrumentation.ENABLED) {
+        PeriodInstrumentation.accessed();
+      }
 
-    return IntStream.range(1, startOfMonths.size())
-        .mapToObj(i -> {
+      // 初日は規約で調整し、末日は翌月の調整後の初日より前の最後の営業日とする
+      var fromOfMonth = convention.adjust(calendar, startOfMonth(index));
+      var fromOfNextMonth = convention.adjust(calendar, startOfMonth(index + 1));
 
-          var fromOfMonth = startOfMonths.get(i - 1);
-          var toOfMonth = startOfMonths.get(i).minusDays(1);
+      if (fromOfNextMonth <= fromOfMonth) {
+        throw new IllegalArgumentException(
+            "No business day in the adjusted period of month [" + (index + 1) + "].");
+      }
+      var toOfMonth = calendar.previousBusinessDay(fromOfNextMonth - 1);
 
-          return new MonthlyPeriod(i, fromOfMonth, toOfMonth);
+      return new MonthlyPeriod(index + 1, LocalDate.ofEpochDay(fromOfMonth), LocalDate.ofEpochDay(toOfMonth));
+    }
 
-        }).collect(Collectors.toList());
+    @Override
+    public int size() {
+      return monthlyPeriods.size();
+    }
   }
 
   @Getter
   @AllArgsConstructor
   public static class MonthlyPeriod {
 
-    private Integer months;
+    private final Integer months;
 
-    private LocalDate from;
+    private final LocalDate from;
 
-    private LocalDate to;
+    private final LocalDate to;
   }
 }
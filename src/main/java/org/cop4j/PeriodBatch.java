@@ -0,0 +1,141 @@
+package org.cop4j;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class PeriodBatch {
+
+  private static final int THRESHOLD = 16 * 1024;
+
+  // offsets[c] から numberOfMonths[c] + 1 個が契約 c の期間の境界(エポック日)
+  private final int[] offsets;
+
+  private final int[] boundaries;
+
+  public PeriodBatch(long[] fromEpochDays, int[] numberOfMonths) {
+    this(fromEpochDays, numberOfMonths, ForkJoinPool.commonPool());
+  }
+
+  public PeriodBatch(long[] fromEpochDays, int[] numberOfMonths, ForkJoinPool pool) {
+
+    var startNanos = PeriodInstrumentation.ENABLED ? System.nanoTime() : 0L;
+
+    Optional.ofNullable(fromEpochDays)
+        .orElseThrow(() -> new IllegalArgumentException("[fromEpochDays] is required."));
+    Optional.ofNullable(numberOfMonths)
+        .orElseThrow(() -> new IllegalArgumentException("[numberOfMonths] is required."));
+    Optional.ofNullable(pool)
+        .orElseThrow(() -> new IllegalArgumentException("[pool] is required."));
+
+    if (fromEpochDays.length != numberOfMonths.length) {
+      throw new IllegalArgumentException("[fromEpochDays] and [numberOfMonths] must have the same length.");
+    }
+
+    this.offsets = calcOffsets(numberOfMonths);
+    this.boundaries = new int[offsets[numberOfMonths.length]];
+
+    pool.invoke(new BoundariesTask(fromEpochDays, 0, fromEpochDays.length));
+
+    if (PeriodInstrumentation.ENABLED) {
+      PeriodInstrumentation.constructed(numberOfMonths, startNanos);
+    }
+  }
+
+  private static int[] calcOffsets(int[] numberOfMonths) {
+
+    var offsets = new int[numberOfMonths.length + 1];
+
+    try {
+      for (int c = 0; c < numberOfMonths.length; c++) {
+        if (numberOfMonths[c] < 0) {
+          throw new IllegalArgumentException("[numberOfMonths] must not be negative: contract [" + c + "].");
+        }
+        offsets[c + 1] = Math.addExact(offsets[c], Math.addExact(numberOfMonths[c], 1));
+      }
+    } catch (ArithmeticException e) {
+      throw new IllegalArgumentException("Total number of boundaries is too large.", e);
+    }
+    return offsets;
+  }
+
+  // 内部の配列をそのまま返すため、同じパッケージ内の読み取り専用の処理に限る
+  int[] getOffsets() {
+    return offsets;
+  }
+
+  int[] getBoundaries() {
+    return boundaries;
+  }
+
+  public int getOffset(int c) {
+    return offsets[Objects.checkIndex(c, size() + 1)];
+  }
+
+  public int size() {
+    return offsets.length - 1;
+  }
+
+  public int getNumberOfMonths(int c) {
+    return offsets[Objects.checkIndex(c, size()) + 1] - offsets[c] - 1;
+  }
+
+  public long fromEpochDay(int c, int i) {
+    if (PeriodInstrumentation.ENABLED) {
+      PeriodInstrumentation.accessed();
+    }
+    return boundaries[offsets[c] + Objects.checkIndex(i, getNumberOfMonths(c))];
+  }
+
+  public long toEpochDay(int c, int i) {
+    if (PeriodInstrumentation.ENABLED) {
+      PeriodInstrumentation.accessed();
+    }
+    return boundaries[offsets[c] + Objects.checkIndex(i, getNumberOfMonths(c)) + 1] - 1L;
+  }
+
+  private class BoundariesTask extends RecursiveAction {
+
+    private final long[] fromEpochDays;
+
+    private final int start;
+
+    private final int end;
+
+    private BoundariesTask(long[] fromEpochDays, int start, int end) {
+      this.fromEpochDays = fromEpochDays;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    protected void compute() {
+
+      if (offsets[end] - offsets[start] <= THRESHOLD || end - start <= 1) {
+        computeDirectly();
+        return;
+      }
+
+      var middle = (start + end) >>> 1;
+      invokeAll(new BoundariesTask(fromEpochDays, start, middle),
+          new BoundariesTask(fromEpochDays, middle, end));
+    }
+
+    private void computeDirectly() {
+
+      for (int c = start; c < end; c++) {
+
+        var date = EpochDays.toPackedDate(fromEpochDays[c]);
+        var year = EpochDays.year(date);
+        var month = EpochDays.month(date);
+        var dayOfMonth = EpochDays.dayOfMonth(date);
+
+        for (int j = offsets[c], i = 0; j < offsets[c + 1]; j++, i++) {
+          boundaries[j] = CompactPeriod.toIntExact(
+              EpochDays.startOfMonth(year, month, dayOfMonth, i));
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,102 @@
+package org.cop4j;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+public class PeriodCache {
+
+  private final int maximumSize;
+
+  // 起算日ごとに最も長い期間を保持し、短い期間はその先頭部分として返す
+  private final Map<LocalDate, CompactPeriod> schedules;
+
+  private final LongAdder hitCount = new LongAdder();
+
+  private final LongAdder missCount = new LongAdder();
+
+  private final LongAdder evictionCount = new LongAdder();
+
+  public PeriodCache(int maximumSize) {
+
+    if (maximumSize <= 0) {
+      throw new IllegalArgumentException("[maximumSize] must be positive.");
+    }
+    this.maximumSize = maximumSize;
+    this.schedules = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<LocalDate, CompactPeriod> eldest) {
+
+        if (size() > PeriodCache.this.maximumSize) {
+          evictionCount.increment();
+          return true;
+        }
+        return false;
+      }
+    };
+  }
+
+  public CompactPeriod get(LocalDate from, Integer numberOfMonths) {
+
+    Optional.ofNullable(from)
+        .orElseThrow(() -> new IllegalArgumentException("[from] is required."));
+    int months = Optional.ofNullable(numberOfMonths)
+        .orElseThrow(() -> new IllegalArgumentException("[numberOfMonths] is required."));
+
+    if (months < 0) {
+      throw new IllegalArgumentException("[numberOfMonths] must not be negative.");
+    }
+
+    var cached = lookup(from);
+
+    if (cached != null && cached.getNumberOfMonths() >= months) {
+      hitCount.increment();
+      return cached.slice(0, months);
+    }
+
+    missCount.increment();
+
+    // 短い期間が保持されていれば、計算済みの境界を使って延長分だけを計算する
+    var period = cached != null
+        ? cached.extend(months - cached.getNumberOfMonths())
+        : new CompactPeriod(from, months);
+
+    synchronized (schedules) {
+      schedules.merge(from, period,
+          (current, computed) -> current.getNumberOfMonths() >= computed.getNumberOfMonths() ? current : computed);
+    }
+    return period;
+  }
+
+  private CompactPeriod lookup(LocalDate from) {
+
+    synchronized (schedules) {
+      return schedules.get(from);
+    }
+  }
+
+  public int size() {
+
+    synchronized (schedules) {
+      return schedules.size();
+    }
+  }
+
+  public int getMaximumSize() {
+    return maximumSize;
+  }
+
+  public long getHitCount() {
+    return hitCount.sum();
+  }
+
+  public long getMissCount() {
+    return missCount.sum();
+  }
+
+  public long getEvictionCount() {
+    return evictionCount.sum();
+  }
+}
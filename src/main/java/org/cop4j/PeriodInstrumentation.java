@@ -0,0 +1,191 @@
+package org.cop4j;
+
+import java.util.concurrent.atomic.LongAdder;
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+// -Dcop4j.instrumentation=true で有効にする。無効時は呼び出し側の分岐ごと JIT で除去される
+public final class PeriodInstrumentation {
+
+  static final boolean ENABLED = Boolean.getBoolean("cop4j.instrumentation");
+
+  private static final Metrics METRICS = new Metrics();
+
+  private PeriodInstrumentation() {
+  }
+
+  public static boolean isEnabled() {
+    return ENABLED;
+  }
+
+  public static PeriodMetrics getMetrics() {
+    return METRICS;
+  }
+
+  static void constructed(String type, long fromEpochDay, int numberOfMonths, long startNanos) {
+
+    var nanos = System.nanoTime() - startNanos;
+
+    METRICS.constructed(numberOfMonths, nanos);
+
+    var event = new PeriodConstructionEvent();
+    if (event.isEnabled()) {
+      event.type = type;
+      event.fromEpochDay = fromEpochDay;
+      event.numberOfMonths = numberOfMonths;
+      event.computationTime = nanos;
+      event.commit();
+    }
+  }
+
+  // 一括構築は契約ごとに構築回数と月数の分布を数え、時間は全体で一度だけ加算する
+  static void constructed(int[] numberOfMonths, long startNanos) {
+    METRICS.constructed(numberOfMonths, System.nanoTime() - startNanos);
+  }
+
+  // 月ごとの取得は 1 回が計時より軽いため、回数だけを数える
+  static void accessed() {
+    METRICS.accessed();
+  }
+
+  static void lookedUp(long fromEpochDay, long epochDay, long months, long startNanos) {
+
+    var nanos = System.nanoTime() - startNanos;
+
+    METRICS.lookedUp(nanos);
+
+    var event = new PeriodLookupEvent();
+    if (event.isEnabled()) {
+      event.fromEpochDay = fromEpochDay;
+      event.epochDay = epochDay;
+      event.months = months;
+      event.lookupTime = nanos;
+      event.commit();
+    }
+  }
+
+  static class Metrics implements PeriodMetrics {
+
+    private final LongAdder constructionCount = new LongAdder();
+
+    private final LongAdder constructionNanos = new LongAdder();
+
+    private final LongAdder[] numberOfMonthsHistogram = new LongAdder[Integer.SIZE];
+
+    private final LongAdder accessCount = new LongAdder();
+
+    private final LongAdder lookupCount = new LongAdder();
+
+    private final LongAdder lookupNanos = new LongAdder();
+
+    Metrics() {
+      for (int k = 0; k < numberOfMonthsHistogram.length; k++) {
+        numberOfMonthsHistogram[k] = new LongAdder();
+      }
+    }
+
+    void constructed(int numberOfMonths, long nanos) {
+      constructionCount.increment();
+      constructionNanos.add(nanos);
+      countNumberOfMonths(numberOfMonths);
+    }
+
+    void constructed(int[] numberOfMonths, long nanos) {
+      constructionCount.add(numberOfMonths.length);
+      constructionNanos.add(nanos);
+      for (var months : numberOfMonths) {
+        countNumberOfMonths(months);
+      }
+    }
+
+    private void countNumberOfMonths(int numberOfMonths) {
+      numberOfMonthsHistogram[Integer.SIZE - Integer.numberOfLeadingZeros(numberOfMonths)]
+          .increment();
+    }
+
+    void accessed() {
+      accessCount.increment();
+    }
+
+    void lookedUp(long nanos) {
+      lookupCount.increment();
+      lookupNanos.add(nanos);
+    }
+
+    @Override
+    public long getConstructionCount() {
+      return constructionCount.sum();
+    }
+
+    @Override
+    public long getConstructionNanos() {
+      return constructionNanos.sum();
+    }
+
+    @Override
+    public long[] getNumberOfMonthsHistogram() {
+
+      var histogram = new long[numberOfMonthsHistogram.length];
+      for (int k = 0; k < histogram.length; k++) {
+        histogram[k] = numberOfMonthsHistogram[k].sum();
+      }
+      return histogram;
+    }
+
+    @Override
+    public long getAccessCount() {
+      return accessCount.sum();
+    }
+
+    @Override
+    public long getLookupCount() {
+      return lookupCount.sum();
+    }
+
+    @Override
+    public long getLookupNanos() {
+      return lookupNanos.sum();
+    }
+  }
+
+  @Name("org.cop4j.PeriodConstruction")
+  @Label("Period Construction")
+  @Category("cop4j")
+  static class PeriodConstructionEvent extends Event {
+
+    @Label("Type")
+    String type;
+
+    @Label("From (Epoch Day)")
+    long fromEpochDay;
+
+    @Label("Number of Months")
+    int numberOfMonths;
+
+    @Label("Computation Time")
+    @Timespan
+    long computationTime;
+  }
+
+  @Name("org.cop4j.PeriodLookup")
+  @Label("Period Lookup")
+  @Category("cop4j")
+  static class PeriodLookupEvent extends Event {
+
+    @Label("From (Epoch Day)")
+    long fromEpochDay;
+
+    @Label("Date (Epoch Day)")
+    long epochDay;
+
+    @Label("Months")
+    long months;
+
+    @Label("Lookup Time")
+    @Timespan
+    long lookupTime;
+  }
+}
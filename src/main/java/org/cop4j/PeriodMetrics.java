@@ -0,0 +1,18 @@
+package org.cop4j;
+
+public interface PeriodMetrics {
+
+  long getConstructionCount();
+
+  long getConstructionNanos();
+
+  // 添字 k は月数が [2^(k-1), 2^k) の構築回数(k = 0 は月数 0)
+  long[] getNumberOfMonthsHistogram();
+
+  // 月ごとの期間・境界の取得(一覧の要素、ストリーム、fromEpochDay/toEpochDay)
+  long getAccessCount();
+
+  long getLookupCount();
+
+  long getLookupNanos();
+}
@@ -0,0 +1,145 @@
+package org.cop4j;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public class Proration {
+
+  private final DayCountConvention convention;
+
+  public Proration(DayCountConvention convention) {
+    this.convention = Optional.ofNullable(convention)
+        .orElseThrow(() -> new IllegalArgumentException("[convention] is required."));
+  }
+
+  public DayCountConvention getConvention() {
+    return convention;
+  }
+
+  public long[] dayCounts(Period period) {
+    return dayCounts(boundariesOf(period));
+  }
+
+  public long[] dayCounts(CompactPeriod period) {
+    return dayCounts(boundariesOf(period));
+  }
+
+  private long[] dayCounts(int[] boundaries) {
+
+    var dayCounts = new long[boundaries.length - 1];
+
+    for (int i = 0; i < dayCounts.length; i++) {
+      dayCounts[i] = convention.dayCount(boundaries[i], boundaries[i + 1]);
+    }
+    return dayCounts;
+  }
+
+  public long[] allocate(long amount, Period period) {
+    return allocate(amount, boundariesOf(period));
+  }
+
+  public long[] allocate(long amount, CompactPeriod period) {
+    return allocate(amount, boundariesOf(period));
+  }
+
+  private long[] allocate(long amount, int[] boundaries) {
+
+    var numberOfMonths = boundaries.length - 1;
+    var allocated = new long[numberOfMonths];
+
+    allocate(amount, boundaries, 0, numberOfMonths, allocated, 0, new long[numberOfMonths]);
+    return allocated;
+  }
+
+  // 契約 c の按分額は allocated[batch.getOffset(c) - c + i] に格納する
+  public long[] allocate(long[] amounts, PeriodBatch batch) {
+
+    Optional.ofNullable(amounts)
+        .orElseThrow(() -> new IllegalArgumentException("[amounts] is required."));
+    Optional.ofNullable(batch)
+        .orElseThrow(() -> new IllegalArgumentException("[batch] is required."));
+
+    if (amounts.length != batch.size()) {
+      throw new IllegalArgumentException("[amounts] and [batch] must have the same size.");
+    }
+
+    var offsets = batch.getOffsets();
+    var boundaries = batch.getBoundaries();
+    var allocated = new long[boundaries.length - amounts.length];
+    var work = new long[0];
+
+    for (int c = 0; c < amounts.length; c++) {
+
+      var numberOfMonths = offsets[c + 1] - offsets[c] - 1;
+      if (work.length < numberOfMonths) {
+        work = new long[numberOfMonths];
+      }
+      allocate(amounts[c], boundaries, offsets[c], numberOfMonths, allocated, offsets[c] - c, work);
+    }
+    return allocated;
+  }
+
+  private void allocate(long amount, int[] boundaries, int offset, int numberOfMonths,
+      long[] allocated, int allocatedOffset, long[] work) {
+
+    if (numberOfMonths <= 0) {
+      throw new IllegalArgumentException("[period] must have at least one month.");
+    }
+
+    var totalDays = 0L;
+    for (int i = 0; i < numberOfMonths; i++) {
+      var days = convention.dayCount(boundaries[offset + i], boundaries[offset + i + 1]);
+      allocated[allocatedOffset + i] = days;
+      totalDays += days;
+    }
+
+    if (totalDays <= 0) {
+      throw new IllegalArgumentException("Total day count must be positive.");
+    }
+
+    // 切り捨てた按分額を割り当て、端数の大きい順(同じなら先の期間)に 1 ずつ配分する
+    var remaining = amount;
+    for (int i = 0; i < numberOfMonths; i++) {
+
+      var product = Math.multiplyExact(amount, allocated[allocatedOffset + i]);
+      var share = Math.floorDiv(product, totalDays);
+
+      work[i] = Math.floorMod(product, totalDays) << 31 | (Integer.MAX_VALUE - i);
+      allocated[allocatedOffset + i] = share;
+      remaining -= share;
+    }
+
+    if (remaining > 0) {
+      Arrays.sort(work, 0, numberOfMonths);
+      for (int k = 0; k < remaining; k++) {
+        allocated[allocatedOffset + (Integer.MAX_VALUE - (int) (work[numberOfMonths - 1 - k] & Integer.MAX_VALUE))]++;
+      }
+    }
+  }
+
+  private static int[] boundariesOf(Period period) {
+
+    Optional.ofNullable(period)
+        .orElseThrow(() -> new IllegalArgumentException("[period] is required."));
+
+    var boundaries = new int[period.getMonthlyPeriods().size() + 1];
+    boundaries[0] = CompactPeriod.toIntExact(period.getFrom().toEpochDay());
+    for (int i = 1; i < boundaries.length; i++) {
+      boundaries[i] = CompactPeriod.toIntExact(period.toEpochDay(i - 1) + 1);
+    }
+    return boundaries;
+  }
+
+  private static int[] boundariesOf(CompactPeriod period) {
+
+    Optional.ofNullable(period)
+        .orElseThrow(() -> new IllegalArgumentException("[period] is required."));
+
+    var boundaries = new int[period.getNumberOfMonths() + 1];
+    boundaries[0] = CompactPeriod.toIntExact(period.getFrom().toEpochDay());
+    for (int i = 1; i < boundaries.length; i++) {
+      boundaries[i] = (int) (period.toEpochDay(i - 1) + 1);
+    }
+    return boundaries;
+  }
+}
@@ -0,0 +1,156 @@
+package org.cop4j;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.Optional;
+import org.cop4j.Period.MonthlyPeriod;
+
+/*
+ * ファイル形式(ビッグエンディアン)
+ *
+ *   ヘッダ   : magic(int) version(int) 契約数 n(int)
+ *   索引     : 各契約のレコード位置(int) x (n + 1)
+ *   レコード : 起算日のエポック日(int) 月数 m(int) 各月の翌日の起算日からの日数(unsigned short) x m
+ *
+ * 各月の境界は起算日からの差分で持つため、i 番目の期間は O(1) で求まる(期間は 65535 日まで)
+ */
+public class ScheduleFile {
+
+  private static final int MAGIC = 0x434F5053;
+
+  private static final int VERSION = 1;
+
+  private static final int MAX_DAYS = 0xFFFF;
+
+  private static final int HEADER_SIZE = 12;
+
+  private final ByteBuffer buffer;
+
+  private final int size;
+
+  private ScheduleFile(ByteBuffer buffer) {
+
+    if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+      throw new IllegalArgumentException("Not a schedule file.");
+    }
+    if (buffer.getInt(4) != VERSION) {
+      throw new IllegalArgumentException("Unsupported schedule file version: " + buffer.getInt(4));
+    }
+
+    // 索引がファイルに収まり、最後のレコードの終端がファイルの終端と一致すること
+    var size = buffer.getInt(8);
+    if (size < 0 || HEADER_SIZE + 4L * size + 4 > buffer.limit()
+        || buffer.getInt(HEADER_SIZE + 4 * size) != buffer.limit()) {
+      throw new IllegalArgumentException("Not a schedule file.");
+    }
+    this.buffer = buffer;
+    this.size = size;
+  }
+
+  public static void write(Path file, PeriodBatch batch) throws IOException {
+
+    Optional.ofNullable(file)
+        .orElseThrow(() -> new IllegalArgumentException("[file] is required."));
+    Optional.ofNullable(batch)
+        .orElseThrow(() -> new IllegalArgumentException("[batch] is required."));
+
+    var offsets = batch.getOffsets();
+    var boundaries = batch.getBoundaries();
+    var size = batch.size();
+    // 各レコードは 8 バイト + 月数 x 2 バイト
+    var fileSize = HEADER_SIZE + 4L * (size + 1) + 8L * size + 2L * (boundaries.length - size);
+
+    if (fileSize > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Schedule file is too large: " + fileSize + " bytes.");
+    }
+    for (int c = 0; c < size; c++) {
+      if (boundaries[offsets[c + 1] - 1] - boundaries[offsets[c]] > MAX_DAYS) {
+        throw new IllegalArgumentException("Schedule of contract [" + c + "] exceeds " + MAX_DAYS + " days.");
+      }
+    }
+
+    try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+
+      out.writeInt(MAGIC);
+      out.writeInt(VERSION);
+      out.writeInt(size);
+
+      var position = HEADER_SIZE + 4 * (size + 1);
+      for (int c = 0; c <= size; c++) {
+        out.writeInt(position + 6 * c + 2 * offsets[c]);
+      }
+
+      for (int c = 0; c < size; c++) {
+
+        var from = boundaries[offsets[c]];
+
+        out.writeInt(from);
+        out.writeInt(offsets[c + 1] - offsets[c] - 1);
+        for (int j = offsets[c] + 1; j < offsets[c + 1]; j++) {
+          out.writeShort(boundaries[j] - from);
+        }
+      }
+    }
+  }
+
+  public static ScheduleFile open(Path file) throws IOException {
+
+    Optional.ofNullable(file)
+        .orElseThrow(() -> new IllegalArgumentException("[file] is required."));
+
+    try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      return new ScheduleFile(channel.map(MapMode.READ_ONLY, 0, channel.size()));
+    }
+  }
+
+  public int size() {
+    return size;
+  }
+
+  private int recordOf(int c) {
+    return buffer.getInt(HEADER_SIZE + 4 * Objects.checkIndex(c, size));
+  }
+
+  public LocalDate getFrom(int c) {
+    return LocalDate.ofEpochDay(buffer.getInt(recordOf(c)));
+  }
+
+  public int getNumberOfMonths(int c) {
+    return buffer.getInt(recordOf(c) + 4);
+  }
+
+  public long fromEpochDay(int c, int i) {
+    return fromEpochDayOf(recordOf(c), i);
+  }
+
+  public long toEpochDay(int c, int i) {
+    return toEpochDayOf(recordOf(c), i);
+  }
+
+  public MonthlyPeriod getMonthlyPeriod(int c, int i) {
+
+    var record = recordOf(c);
+
+    return new MonthlyPeriod(i + 1, LocalDate.ofEpochDay(fromEpochDayOf(record, i)),
+        LocalDate.ofEpochDay(toEpochDayOf(record, i)));
+  }
+
+  private long fromEpochDayOf(int record, int i) {
+    Objects.checkIndex(i, buffer.getInt(record + 4));
+    return (long) buffer.getInt(record) + (i == 0 ? 0 : buffer.getChar(record + 8 + 2 * (i - 1)));
+  }
+
+  private long toEpochDayOf(int record, int i) {
+    Objects.checkIndex(i, buffer.getInt(record + 4));
+    return (long) buffer.getInt(record) + buffer.getChar(record + 8 + 2 * i) - 1;
+  }
+}
@@ -0,0 +1,112 @@
+package org.cop4j;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.cop4j.Period.MonthlyPeriod;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class CompactPeriodTest {
+
+  @ParameterizedTest
+  @MethodSource("org.cop4j.PeriodTest#successPeriodsTestDataProvider")
+  void successCalculateOfCompactPeriod(LocalDate from, Integer numberOfMonths,
+      List<MonthlyPeriod> periodsTestData) {
+
+    var period = new CompactPeriod(from, numberOfMonths);
+
+    assertThat(period.getFrom()).isEqualTo(from);
+    assertThat(period.getNumberOfMonths()).isEqualTo(numberOfMonths);
+
+    for (int i = 0; i < period.getNumberOfMonths(); i++) {
+
+      assertThat(period.fromEpochDay(i)).isEqualTo(periodsTestData.get(i).getFrom().toEpochDay());
+      assertThat(period.toEpochDay(i)).isEqualTo(periodsTestData.get(i).getTo().toEpochDay());
+
+      var monthlyPeriod = period.getMonthlyPeriods().get(i);
+      assertThat(monthlyPeriod.getMonths()).isEqualTo(periodsTestData.get(i).getMonths());
+      assertThat(monthlyPeriod.getFrom()).isEqualTo(periodsTestData.get(i).getFrom());
+      assertThat(monthlyPeriod.getTo()).isEqualTo(periodsTestData.get(i).getTo());
+    }
+  }
+
+  @ParameterizedTest
+  @MethodSource("org.cop4j.PeriodTest#successPeriodsTestDataProvider")
+  void extendedPeriodIsSameAsNewPeriod(LocalDate from, Integer numberOfMonths,
+      List<MonthlyPeriod> periodsTestData) {
+
+    for (int head = 0; head <= numberOfMonths; head++) {
+
+      var extended = new CompactPeriod(from, head).extend(numberOfMonths - head);
+
+      assertThat(extended.getNumberOfMonths()).isEqualTo(numberOfMonths);
+
+      for (int i = 0; i < numberOfMonths; i++) {
+        assertThat(extended.fromEpochDay(i)).isEqualTo(periodsTestData.get(i).getFrom().toEpochDay());
+        assertThat(extended.toEpochDay(i)).isEqualTo(periodsTestData.get(i).getTo().toEpochDay());
+      }
+    }
+
+    var period = new Period(from, 1).extend(numberOfMonths - 1);
+    assertThat(period.getNumberOfMonths()).isEqualTo(numberOfMonths);
+    assertThat(period.toEpochDay(numberOfMonths - 1))
+        .isEqualTo(periodsTestData.get(numberOfMonths - 1).getTo().toEpochDay());
+  }
+
+  @ParameterizedTest
+  @MethodSource("org.cop4j.PeriodTest#successPeriodsTestDataProvider")
+  void slicedPeriodSharesMonths(LocalDate from, Integer numberOfMonths,
+      List<MonthlyPeriod> periodsTestData) {
+
+    var period = new CompactPeriod(from, numberOfMonths);
+    var slice = period.slice(2, numberOfMonths - 1);
+
+    assertThat(slice.getNumberOfMonths()).isEqualTo(numberOfMonths - 3);
+    assertThat(slice.getFrom()).isEqualTo(periodsTestData.get(2).getFrom());
+
+    for (int i = 0; i < slice.getNumberOfMonths(); i++) {
+
+      var monthlyPeriod = slice.getMonthlyPeriod(i);
+      assertThat(monthlyPeriod.getMonths()).isEqualTo(periodsTestData.get(i + 2).getMonths());
+      assertThat(monthlyPeriod.getFrom()).isEqualTo(periodsTestData.get(i + 2).getFrom());
+      assertThat(monthlyPeriod.getTo()).isEqualTo(periodsTestData.get(i + 2).getTo());
+    }
+
+    // 切り出した期間を延長すると元の期間の末尾まで戻る
+    var extended = slice.extend(1);
+    assertThat(extended.toEpochDay(extended.getNumberOfMonths() - 1))
+        .isEqualTo(periodsTestData.get(numberOfMonths - 1).getTo().toEpochDay());
+    assertThat(slice.extend(12).getMonthlyPeriod(numberOfMonths + 8).getTo())
+        .isEqualTo(new Period(from, numberOfMonths + 11).getMonthlyPeriods().get(numberOfMonths + 10).getTo());
+  }
+
+  @Test
+  void sameAsPeriod() {
+
+    var from = LocalDate.parse("1999-12-31");
+    var period = new Period(from, 600);
+    var compact = period.toCompact();
+
+    for (int i = 0; i < period.getNumberOfMonths(); i++) {
+      assertThat(compact.fromEpochDay(i)).isEqualTo(period.fromEpochDay(i));
+      assertThat(compact.toEpochDay(i)).isEqualTo(period.toEpochDay(i));
+    }
+  }
+
+  @Test
+  void failureCalculateOfCompactPeriod() {
+
+    var from = LocalDate.parse("2020-02-28");
+    assertThrows(IllegalArgumentException.class, () -> new CompactPeriod(from, null));
+    assertThrows(IllegalArgumentException.class, () -> new CompactPeriod(null, 12));
+    assertThrows(IllegalArgumentException.class, () -> new CompactPeriod(from, -1));
+    assertThrows(IllegalArgumentException.class, () -> new CompactPeriod(LocalDate.MAX, 1));
+    assertThrows(IndexOutOfBoundsException.class, () -> new CompactPeriod(from, 12).fromEpochDay(12));
+    assertThrows(IndexOutOfBoundsException.class, () -> new CompactPeriod(from, 12).slice(3, 13));
+    assertThrows(IllegalArgumentException.class, () -> new CompactPeriod(from, 12).extend(-1));
+  }
+}
@@ -0,0 +1,35 @@
+package org.cop4j;
+
+import java.time.LocalDate;
+import java.util.function.IntUnaryOperator;
+
+// テストとベンチマークで共有する契約データ。起算日は 4 年(1461 日)周期で日毎にずらす
+final class Contracts {
+
+  final long[] fromEpochDays;
+
+  final int[] numberOfMonths;
+
+  Contracts(LocalDate from, int size, IntUnaryOperator numberOfMonths) {
+
+    this.fromEpochDays = new long[size];
+    this.numberOfMonths = new int[size];
+
+    for (int c = 0; c < size; c++) {
+      this.fromEpochDays[c] = from.plusDays(c % 1461).toEpochDay();
+      this.numberOfMonths[c] = numberOfMonths.applyAsInt(c);
+    }
+  }
+
+  int size() {
+    return fromEpochDays.length;
+  }
+
+  Period toPeriod(int c) {
+    return new Period(LocalDate.ofEpochDay(fromEpochDays[c]), numberOfMonths[c]);
+  }
+
+  PeriodBatch toBatch() {
+    return new PeriodBatch(fromEpochDays, numberOfMonths);
+  }
+}
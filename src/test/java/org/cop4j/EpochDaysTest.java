@@ -0,0 +1,53 @@
+package org.cop4j;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class EpochDaysTest {
+
+  @ParameterizedTest
+  @ValueSource(ints = {-400, 1600, 2000, 2021})
+  void sameAsLocalDateForEveryAnchorDayOverFullCycle(int year) {
+
+    // 1 月はすべての応答日(1 日から 31 日)を持つ
+    for (int dayOfMonth = 1; dayOfMonth <= 31; dayOfMonth++) {
+
+      var from = LocalDate.of(year, 1, dayOfMonth);
+
+      for (int i = 0; i <= 4800; i++) {
+        assertThat(EpochDays.startOfMonth(year, 1, dayOfMonth, i))
+            .isEqualTo(startOfMonth(from, i).toEpochDay());
+      }
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {-400, 1600, 2000, 2021})
+  void packedDateRoundTrip(int year) {
+
+    var from = LocalDate.of(year, 1, 1);
+
+    for (var date = from; date.isBefore(from.plusYears(400)); date = date.plusDays(1)) {
+
+      var packedDate = EpochDays.toPackedDate(date.toEpochDay());
+
+      assertThat(EpochDays.year(packedDate)).isEqualTo(date.getYear());
+      assertThat(EpochDays.month(packedDate)).isEqualTo(date.getMonthValue());
+      assertThat(EpochDays.dayOfMonth(packedDate)).isEqualTo(date.getDayOfMonth());
+      assertThat(LocalDate.of(EpochDays.year(packedDate), EpochDays.month(packedDate),
+          EpochDays.dayOfMonth(packedDate)).toEpochDay()).isEqualTo(date.toEpochDay());
+    }
+  }
+
+  private static LocalDate startOfMonth(LocalDate from, int i) {
+
+    var nextMonth = from.plusMonths(i);
+
+    return from.getDayOfMonth() <= nextMonth.lengthOfMonth()
+        ? nextMonth
+        : nextMonth.plusMonths(1).withDayOfMonth(1);
+  }
+}
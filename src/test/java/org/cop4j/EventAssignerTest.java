@@ -0,0 +1,67 @@
+package org.cop4j;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class EventAssignerTest {
+
+  private static final int CONTRACTS = 200;
+
+  private final long[] fromEpochDays = IntStream.range(0, CONTRACTS)
+      .mapToLong(c -> LocalDate.parse("2020-01-01").plusDays(c * 3L).toEpochDay())
+      .toArray();
+
+  private final int[] numberOfMonths = IntStream.range(0, CONTRACTS).map(c -> 1 + c % 36).toArray();
+
+  private final EventAssigner assigner = new EventAssigner(new PeriodBatch(fromEpochDays, numberOfMonths));
+
+  @Test
+  void sortedAndUnsortedEventsAreAssignedSameAsPeriod() {
+
+    var random = new Random(42);
+    var events = new ArrayList<long[]>();
+
+    for (int e = 0; e < 50_000; e++) {
+      var contract = random.nextInt(CONTRACTS);
+      events.add(new long[] {contract, fromEpochDays[contract] - 10 + random.nextInt(36 * 31 + 20)});
+    }
+
+    assertAssignedSameAsPeriod(events);
+
+    events.sort(Comparator.<long[]>comparingLong(e -> e[1]).thenComparingLong(e -> e[0]));
+    assertAssignedSameAsPeriod(events);
+  }
+
+  private void assertAssignedSameAsPeriod(List<long[]> events) {
+
+    var assignments = assigner.<long[]>assign(events.iterator(), e -> (int) e[0], e -> e[1]);
+    var count = 0;
+
+    while (assignments.hasNext()) {
+
+      var assignment = assignments.next();
+      var contract = assignment.getContract();
+      var date = LocalDate.ofEpochDay(assignment.getEvent()[1]);
+      var period = new Period(LocalDate.ofEpochDay(fromEpochDays[contract]), numberOfMonths[contract]);
+
+      assertThat(assignment.getMonths()).isEqualTo(period.monthsOf(date).orElse(0));
+      count++;
+    }
+    assertThat(count).isEqualTo(events.size());
+  }
+
+  @Test
+  void failureCreateOfEventAssigner() {
+
+    assertThrows(IllegalArgumentException.class, () -> new EventAssigner(null));
+    assertThrows(IllegalArgumentException.class, () -> assigner.assign(null, e -> 0, e -> 0L));
+  }
+}
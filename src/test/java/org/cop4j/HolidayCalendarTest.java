@@ -0,0 +1,163 @@
+package org.cop4j;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class HolidayCalendarTest {
+
+  private static final LocalDate START = LocalDate.parse("2020-01-01");
+
+  private static final LocalDate END = LocalDate.parse("2022-12-31");
+
+  private static final Set<LocalDate> HOLIDAYS = Set.of(
+      LocalDate.parse("2021-01-01"),
+      LocalDate.parse("2021-05-03"),
+      LocalDate.parse("2021-05-04"),
+      LocalDate.parse("2021-05-05"),
+      LocalDate.parse("2021-12-31"));
+
+  private final HolidayCalendar calendar = new HolidayCalendar(START, END, HOLIDAYS);
+
+  @Test
+  void sameAsLocalDateLoops() {
+
+    for (var date = START; !date.isAfter(END); date = date.plusDays(1)) {
+
+      assertThat(calendar.isBusinessDay(date)).isEqualTo(isBusinessDay(date));
+
+      if (date.isAfter(START.plusDays(7)) && date.isBefore(END.minusDays(7))) {
+
+        var next = date;
+        while (!isBusinessDay(next)) {
+          next = next.plusDays(1);
+        }
+        var previous = date;
+        while (!isBusinessDay(previous)) {
+          previous = previous.minusDays(1);
+        }
+
+        assertThat(calendar.nextBusinessDay(date.toEpochDay())).isEqualTo(next.toEpochDay());
+        assertThat(calendar.previousBusinessDay(date.toEpochDay())).isEqualTo(previous.toEpochDay());
+      }
+    }
+  }
+
+  @Test
+  void countBusinessDays() {
+
+    for (var monthlyPeriod : new Period(LocalDate.parse("2020-01-31"), 34).getMonthlyPeriods()) {
+
+      var expected = monthlyPeriod.getFrom().datesUntil(monthlyPeriod.getTo().plusDays(1))
+          .filter(HolidayCalendarTest::isBusinessDay)
+          .count();
+
+      assertThat(calendar.countBusinessDays(monthlyPeriod)).isEqualTo(expected);
+    }
+    assertThat(calendar.countBusinessDays(END.toEpochDay(), START.toEpochDay())).isZero();
+  }
+
+  @Test
+  void adjustedMonthlyPeriods() {
+
+    var period = new Period(LocalDate.parse("2021-04-03"), 9);
+
+    var following = period.getAdjustedMonthlyPeriods(calendar, BusinessDayConvention.FOLLOWING);
+    var preceding = period.getAdjustedMonthlyPeriods(calendar, BusinessDayConvention.PRECEDING);
+    var modifiedFollowing = period.getAdjustedMonthlyPeriods(calendar, BusinessDayConvention.MODIFIED_FOLLOWING);
+
+    // 2021-04-03(土) -> 2021-04-05(月)
+    assertThat(following.get(0).getFrom()).isEqualTo(LocalDate.parse("2021-04-05"));
+    assertThat(preceding.get(0).getFrom()).isEqualTo(LocalDate.parse("2021-04-02"));
+    // 2021-05-03(祝) -> 2021-05-06、末日はその前の営業日 2021-04-30(金)
+    assertThat(following.get(0).getTo()).isEqualTo(LocalDate.parse("2021-04-30"));
+    assertThat(following.get(1).getFrom()).isEqualTo(LocalDate.parse("2021-05-06"));
+    // 2021-07-03(土) -> 2021-07-05(月)
+    assertThat(modifiedFollowing.get(3).getFrom()).isEqualTo(LocalDate.parse("2021-07-05"));
+    // 翌月の初日 2022-01-03(月) の前の営業日は 2021-12-30(2021-12-31 は祝日)
+    assertThat(modifiedFollowing.get(8).getTo()).isEqualTo(LocalDate.parse("2021-12-30"));
+
+    var endOfMonth = new Period(LocalDate.parse("2021-07-31"), 1)
+        .getAdjustedMonthlyPeriods(calendar, BusinessDayConvention.MODIFIED_FOLLOWING);
+
+    // 2021-07-31(土) の翌営業日は翌月になるため前営業日 2021-07-30(金)
+    assertThat(endOfMonth.get(0).getFrom()).isEqualTo(LocalDate.parse("2021-07-30"));
+
+    // 初日と末日は営業日で、期間の間に営業日はない
+    for (var adjusted : List.of(following, preceding, modifiedFollowing)) {
+      for (int i = 0; i < adjusted.size(); i++) {
+
+        assertThat(calendar.isBusinessDay(adjusted.get(i).getFrom())).isTrue();
+        assertThat(calendar.isBusinessDay(adjusted.get(i).getTo())).isTrue();
+
+        if (i > 0) {
+          assertThat(calendar.countBusinessDays(adjusted.get(i - 1).getTo().toEpochDay() + 1,
+              adjusted.get(i).getFrom().toEpochDay() - 1)).isZero();
+        }
+      }
+    }
+  }
+
+  @Test
+  void failureAdjustedMonthlyPeriodWithoutBusinessDay() {
+
+    var holidays = LocalDate.parse("2021-01-15").datesUntil(LocalDate.parse("2021-02-20"))
+        .collect(Collectors.toSet());
+    var closed = new HolidayCalendar(START, END, holidays);
+
+    // 2021-01-15 と 2021-02-15 はどちらも 2021-02-22 に調整される
+    var adjusted = new Period(LocalDate.parse("2021-01-15"), 2)
+        .getAdjustedMonthlyPeriods(closed, BusinessDayConvention.FOLLOWING);
+
+    assertThrows(IllegalArgumentException.class, () -> adjusted.get(0));
+    assertThat(adjusted.get(1).getFrom()).isEqualTo(LocalDate.parse("2021-02-22"));
+  }
+
+  @Test
+  void load(@TempDir Path dir) throws IOException {
+
+    var file = dir.resolve("holidays.txt");
+    Files.write(file, List.of("# 祝日", "2021-01-01", "", "2021-05-03  # 憲法記念日"));
+
+    var loaded = HolidayCalendar.load(file, START, END);
+
+    assertThat(loaded.isBusinessDay(LocalDate.parse("2021-01-01"))).isFalse();
+    assertThat(loaded.isBusinessDay(LocalDate.parse("2021-05-03"))).isFalse();
+    assertThat(loaded.isBusinessDay(LocalDate.parse("2021-05-04"))).isTrue();
+  }
+
+  @Test
+  void failureOutOfRange() {
+
+    assertThrows(IllegalArgumentException.class, () -> calendar.isBusinessDay(START.minusDays(1)));
+    assertThrows(IllegalArgumentException.class, () -> calendar.isBusinessDay(END.plusDays(1)));
+    assertThrows(IllegalArgumentException.class, () -> calendar.nextBusinessDay(END.toEpochDay()));
+    assertThrows(IllegalArgumentException.class, () -> new HolidayCalendar(END, START, HOLIDAYS));
+  }
+
+  @Test
+  void failureMissingDate() {
+
+    assertThrows(IllegalArgumentException.class, () -> calendar.isBusinessDay(null));
+    assertThrows(IllegalArgumentException.class, () -> calendar.countBusinessDays(null));
+    assertThrows(IllegalArgumentException.class,
+        () -> new HolidayCalendar(START, END, Arrays.asList(LocalDate.parse("2021-01-01"), null)));
+  }
+
+  private static boolean isBusinessDay(LocalDate date) {
+    return date.getDayOfWeek() != DayOfWeek.SATURDAY
+        && date.getDayOfWeek() != DayOfWeek.SUNDAY
+        && !HOLIDAYS.contains(date);
+  }
+}
@@ -0,0 +1,51 @@
+package org.cop4j;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class PeriodBatchTest {
+
+  @Test
+  void sameAsPeriod() {
+
+    // 月数は 0 から 60 まで
+    var contracts = new Contracts(LocalDate.parse("2019-01-01"), 20_000, c -> c % 61);
+
+    var pool = new ForkJoinPool(4);
+    PeriodBatch batch;
+    try {
+      batch = new PeriodBatch(contracts.fromEpochDays, contracts.numberOfMonths, pool);
+    } finally {
+      pool.shutdown();
+    }
+
+    assertThat(batch.size()).isEqualTo(contracts.size());
+
+    for (int c = 0; c < contracts.size(); c++) {
+
+      var period = contracts.toPeriod(c);
+
+      assertThat(batch.getNumberOfMonths(c)).isEqualTo(period.getNumberOfMonths());
+      assertThat(batch.getOffset(c + 1) - batch.getOffset(c)).isEqualTo(period.getNumberOfMonths() + 1);
+
+      for (int i = 0; i < period.getNumberOfMonths(); i++) {
+        assertThat(batch.fromEpochDay(c, i)).isEqualTo(period.fromEpochDay(i));
+        assertThat(batch.toEpochDay(c, i)).isEqualTo(period.toEpochDay(i));
+      }
+    }
+  }
+
+  @Test
+  void failureCalculateOfPeriodBatch() {
+
+    assertThrows(IllegalArgumentException.class, () -> new PeriodBatch(null, new int[0]));
+    assertThrows(IllegalArgumentException.class, () -> new PeriodBatch(new long[0], null));
+    assertThrows(IllegalArgumentException.class, () -> new PeriodBatch(new long[1], new int[2]));
+    assertThrows(IllegalArgumentException.class, () -> new PeriodBatch(new long[2], new int[] {12, -1}));
+    assertThrows(IllegalArgumentException.class, () -> new PeriodBatch(new long[1], new int[] {Integer.MAX_VALUE}));
+  }
+}
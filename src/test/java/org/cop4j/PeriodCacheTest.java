@@ -0,0 +1,120 @@
+package org.cop4j;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.Test;
+
+class PeriodCacheTest {
+
+  @Test
+  void shorterPeriodIsPrefixOfCachedPeriod() {
+
+    var cache = new PeriodCache(10);
+    var from = LocalDate.parse("2021-07-31");
+
+    var longer = cache.get(from, 24);
+    var shorter = cache.get(from, 12);
+
+    assertThat(cache.getMissCount()).isEqualTo(1);
+    assertThat(cache.getHitCount()).isEqualTo(1);
+    assertThat(shorter.getNumberOfMonths()).isEqualTo(12);
+    assertThat(cache.get(from, 24)).isSameAs(longer);
+
+    var period = new Period(from, 12);
+    for (int i = 0; i < period.getNumberOfMonths(); i++) {
+      assertThat(shorter.fromEpochDay(i)).isEqualTo(period.fromEpochDay(i));
+      assertThat(shorter.toEpochDay(i)).isEqualTo(period.toEpochDay(i));
+    }
+    assertThrows(IndexOutOfBoundsException.class, () -> shorter.fromEpochDay(12));
+  }
+
+  @Test
+  void longerPeriodReplacesCachedPeriod() {
+
+    var cache = new PeriodCache(10);
+    var from = LocalDate.parse("2020-02-29");
+
+    cache.get(from, 12);
+    var longer = cache.get(from, 36);
+
+    assertThat(cache.getMissCount()).isEqualTo(2);
+    assertThat(cache.get(from, 36)).isSameAs(longer);
+    assertThat(cache.size()).isEqualTo(1);
+
+    // 延長された期間は最初から計算した期間と一致する
+    var period = new Period(from, 36);
+    for (int i = 0; i < period.getNumberOfMonths(); i++) {
+      assertThat(longer.fromEpochDay(i)).isEqualTo(period.fromEpochDay(i));
+      assertThat(longer.toEpochDay(i)).isEqualTo(period.toEpochDay(i));
+    }
+  }
+
+  @Test
+  void leastRecentlyUsedPeriodIsEvicted() {
+
+    var cache = new PeriodCache(2);
+    var first = LocalDate.parse("2020-01-01");
+    var second = LocalDate.parse("2020-02-01");
+    var third = LocalDate.parse("2020-03-01");
+
+    cache.get(first, 12);
+    cache.get(second, 12);
+    cache.get(first, 12);
+    cache.get(third, 12);
+
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.getEvictionCount()).isEqualTo(1);
+
+    cache.get(first, 12);
+    cache.get(second, 12);
+
+    assertThat(cache.getHitCount()).isEqualTo(2);
+    assertThat(cache.getMissCount()).isEqualTo(4);
+  }
+
+  @Test
+  void concurrentAccess() throws InterruptedException, ExecutionException, TimeoutException {
+
+    var cache = new PeriodCache(16);
+    var executor = Executors.newFixedThreadPool(4);
+    var from = LocalDate.parse("2020-01-31");
+    var futures = new ArrayList<Future<?>>();
+
+    try {
+      for (int t = 0; t < 4; t++) {
+        futures.add(executor.submit(() -> {
+          for (int i = 0; i < 10_000; i++) {
+            var period = cache.get(from.plusDays(i % 32), i % 60);
+            assertThat(period.getNumberOfMonths()).isEqualTo(i % 60);
+          }
+        }));
+      }
+      // スレッド内の検証の失敗は get で ExecutionException として報告される
+      for (var future : futures) {
+        future.get(1, TimeUnit.MINUTES);
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    assertThat(cache.getHitCount() + cache.getMissCount()).isEqualTo(40_000);
+    assertThat(cache.size()).isLessThanOrEqualTo(16);
+  }
+
+  @Test
+  void failureCreateOfPeriodCache() {
+
+    assertThrows(IllegalArgumentException.class, () -> new PeriodCache(0));
+    assertThrows(IllegalArgumentException.class, () -> new PeriodCache(1).get(null, 12));
+    assertThrows(IllegalArgumentException.class, () -> new PeriodCache(1).get(LocalDate.parse("2020-01-01"), null));
+    assertThrows(IllegalArgumentException.class, () -> new PeriodCache(1).get(LocalDate.parse("2020-01-01"), -1));
+  }
+}
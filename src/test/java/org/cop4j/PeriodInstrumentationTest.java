@@ -0,0 +1,90 @@
+package org.cop4j;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.cop4j.PeriodInstrumentation.Metrics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PeriodInstrumentationTest {
+
+  @Test
+  void metricsAreCounted() {
+
+    var metrics = new Metrics();
+
+    metrics.constructed(0, 10);
+    metrics.constructed(1, 10);
+    metrics.constructed(12, 20);
+    metrics.constructed(new int[] {600, 600}, 60);
+    metrics.accessed();
+    metrics.accessed();
+    metrics.lookedUp(10);
+
+    // 構築と月ごとの取得は別々に数える
+    assertThat(metrics.getConstructionCount()).isEqualTo(5);
+    assertThat(metrics.getConstructionNanos()).isEqualTo(100);
+    assertThat(metrics.getNumberOfMonthsHistogram())
+        .hasSize(32)
+        .startsWith(1, 1, 0, 0, 1, 0, 0, 0, 0, 0, 2, 0);
+    assertThat(metrics.getAccessCount()).isEqualTo(2);
+    assertThat(metrics.getLookupCount()).isEqualTo(1);
+    assertThat(metrics.getLookupNanos()).isEqualTo(10);
+  }
+
+  @Test
+  void disabledByDefault() {
+
+    var metrics = PeriodInstrumentation.getMetrics();
+    var constructionCount = metrics.getConstructionCount();
+    var accessCount = metrics.getAccessCount();
+
+    var period = new Period(LocalDate.parse("2020-01-31"), 12);
+    period.getMonthlyPeriods().get(11);
+    period.fromEpochDay(11);
+    period.getMonthlyPeriods().stream().count();
+    period.toCompact().getMonthlyPeriod(11);
+
+    assertThat(PeriodInstrumentation.isEnabled()).isFalse();
+    assertThat(metrics.getConstructionCount()).isEqualTo(constructionCount);
+    assertThat(metrics.getAccessCount()).isEqualTo(accessCount);
+  }
+
+  @Test
+  void flightRecorderEvents(@TempDir Path dir) throws IOException {
+
+    var file = dir.resolve("cop4j.jfr");
+
+    try (var recording = new Recording()) {
+
+      recording.enable("org.cop4j.PeriodConstruction");
+      recording.enable("org.cop4j.PeriodLookup");
+      recording.start();
+
+      PeriodInstrumentation.constructed("Period", 18262, 12, System.nanoTime());
+      PeriodInstrumentation.lookedUp(18262, 18300, 2, System.nanoTime());
+
+      recording.stop();
+      recording.dump(file);
+    }
+
+    var events = RecordingFile.readAllEvents(file).stream()
+        .collect(Collectors.toMap(e -> e.getEventType().getName(), e -> e));
+
+    RecordedEvent construction = events.get("org.cop4j.PeriodConstruction");
+    assertThat(construction.getString("type")).isEqualTo("Period");
+    assertThat(construction.getLong("fromEpochDay")).isEqualTo(18262);
+    assertThat(construction.getInt("numberOfMonths")).isEqualTo(12);
+
+    RecordedEvent lookup = events.get("org.cop4j.PeriodLookup");
+    assertThat(lookup.getLong("epochDay")).isEqualTo(18300);
+    assertThat(lookup.getLong("months")).isEqualTo(2);
+  }
+}
@@ -7,6 +7,9 @@ import static org.junit.jupiter.params.provider.Arguments.arguments;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.cop4j.Period.MonthlyPeriod;
 import org.junit.jupiter.api.Test;
@@ -34,14 +37,127 @@ class PeriodTest {
       assertThat(monthlyPeriods.get(i).getMonths()).isEqualTo(periodsTestData.get(i).getMonths());
       assertThat(monthlyPeriods.get(i).getFrom()).isEqualTo(periodsTestData.get(i).getFrom());
       assertThat(monthlyPeriods.get(i).getTo()).isEqualTo(periodsTestData.get(i).getTo());
+
+      assertThat(period.fromEpochDay(i)).isEqualTo(periodsTestData.get(i).getFrom().toEpochDay());
+      assertThat(period.toEpochDay(i)).isEqualTo(periodsTestData.get(i).getTo().toEpochDay());
+    }
+  }
+
+  @ParameterizedTest
+  @MethodSource("successPeriodsTestDataProvider")
+  void successMonthsOfDate(LocalDate from, Integer numberOfMonths, List<MonthlyPeriod> periodsTestData) {
+
+    var period = new Period(from, numberOfMonths);
+
+    for (var monthlyPeriod : periodsTestData) {
+      for (var date = monthlyPeriod.getFrom(); !date.isAfter(monthlyPeriod.getTo()); date = date.plusDays(1)) {
+        assertThat(period.monthsOf(date)).hasValue(monthlyPeriod.getMonths());
+      }
+    }
+
+    assertThat(period.monthsOf(from.minusDays(1))).isEmpty();
+    assertThat(period.monthsOf(periodsTestData.get(numberOfMonths - 1).getTo().plusDays(1))).isEmpty();
+  }
+
+  @Test
+  void monthsOfDateForEveryDayOfMonth() {
+
+    for (var from = toLocalDate("2019-01-01"); from.isBefore(toLocalDate("2021-01-01")); from = from.plusDays(1)) {
+
+      var period = new Period(from, 36);
+
+      for (var monthlyPeriod : period.getMonthlyPeriods()) {
+        assertThat(Period.monthsOf(from, monthlyPeriod.getFrom())).hasValue(monthlyPeriod.getMonths());
+        assertThat(Period.monthsOf(from, monthlyPeriod.getTo())).hasValue(monthlyPeriod.getMonths());
+      }
+      assertThat(Period.monthsOf(from, from.minusDays(1))).isEmpty();
+    }
+  }
+
+  @ParameterizedTest
+  @MethodSource("successPeriodsTestDataProvider")
+  void successStreamOfPeriod(LocalDate from, Integer numberOfMonths, List<MonthlyPeriod> periodsTestData) {
+
+    var monthlyPeriods = Period.stream(from).limit(numberOfMonths).collect(Collectors.toList());
+
+    for (int i = 0; i < numberOfMonths; i++) {
+
+      assertThat(monthlyPeriods.get(i).getMonths()).isEqualTo(periodsTestData.get(i).getMonths());
+      assertThat(monthlyPeriods.get(i).getFrom()).isEqualTo(periodsTestData.get(i).getFrom());
+      assertThat(monthlyPeriods.get(i).getTo()).isEqualTo(periodsTestData.get(i).getTo());
     }
   }
 
+  @Test
+  void parallelStreamOfPeriod() {
+
+    var from = toLocalDate("2021-07-31");
+    var period = new Period(from, 12_000);
+
+    var sequential = period.getMonthlyPeriods().stream()
+        .mapToLong(m -> m.getTo().toEpochDay() - m.getFrom().toEpochDay() + 1).sum();
+    var parallel = Period.stream(from).parallel().limit(12_000)
+        .mapToLong(m -> m.getTo().toEpochDay() - m.getFrom().toEpochDay() + 1).sum();
+
+    assertThat(parallel).isEqualTo(sequential)
+        .isEqualTo(period.toEpochDay(11_999) - period.fromEpochDay(0) + 1);
+
+    var firstDayOfMonth = Period.stream(from).parallel()
+        .filter(m -> m.getFrom().getDayOfMonth() == 1)
+        .findFirst();
+
+    assertThat(firstDayOfMonth).hasValueSatisfying(m -> assertThat(m.getMonths()).isEqualTo(3));
+  }
+
+  @Test
+  void unboundedStreamIsNotSized() {
+
+    var from = toLocalDate("2021-07-31");
+
+    // 期間を限らないストリームは要素数を持たず、期間の一覧は要素数を持つ
+    assertThat(Period.stream(from).spliterator().hasCharacteristics(Spliterator.SIZED)).isFalse();
+    assertThat(Period.stream(from).spliterator().getExactSizeIfKnown()).isEqualTo(-1);
+    assertThat(new Period(from, 12).getMonthlyPeriods().spliterator().getExactSizeIfKnown()).isEqualTo(12);
+  }
+
   @Test
   void failureCalculateOfPeriod() {
 
     var from = toLocalDate("2020-02-28");
     assertThrows(IllegalArgumentException.class, () -> new Period(from, null));
+    assertThrows(IllegalArgumentException.class, () -> new Period(from, 12).extend(-1));
+  }
+
+  @Test
+  void negativeNumberOfMonthsIsEmpty() {
+
+    var period = new Period(toLocalDate("2020-02-28"), -1);
+
+    assertThat(period.getMonthlyPeriods()).isEmpty();
+    assertThat(period.toCompact().getNumberOfMonths()).isZero();
+  }
+
+  @Test
+  void monthlyPeriodsIsRandomAccessView() {
+
+    var period = new Period(toLocalDate("2021-07-31"), 600);
+    var monthlyPeriods = period.getMonthlyPeriods();
+
+    assertThat(monthlyPeriods).isInstanceOf(RandomAccess.class).hasSize(600);
+
+    var last = monthlyPeriods.get(599);
+    assertThat(last.getMonths()).isEqualTo(600);
+    assertThat(last.getFrom()).isEqualTo(toLocalDate("2071-07-01"));
+    assertThat(last.getTo()).isEqualTo(toLocalDate("2071-07-30"));
+
+    // 隣接する期間は連続している
+    for (int i = 1; i < monthlyPeriods.size(); i++) {
+      assertThat(monthlyPeriods.get(i).getFrom())
+          .isEqualTo(monthlyPeriods.get(i - 1).getTo().plusDays(1));
+    }
+
+    assertThrows(IndexOutOfBoundsException.class, () -> monthlyPeriods.get(600));
+    assertThrows(IndexOutOfBoundsException.class, () -> monthlyPeriods.get(-1));
   }
 
   static Stream<Arguments> successPeriodsTestDataProvider() {
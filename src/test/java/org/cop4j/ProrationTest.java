@@ -0,0 +1,125 @@
+package org.cop4j;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class ProrationTest {
+
+  @Test
+  void dayCountsOfActual() {
+
+    var period = new Period(LocalDate.parse("2021-07-31"), 16);
+    var dayCounts = new Proration(DayCountConvention.ACTUAL).dayCounts(period);
+
+    for (var monthlyPeriod : period.getMonthlyPeriods()) {
+      assertThat(dayCounts[monthlyPeriod.getMonths() - 1])
+          .isEqualTo(ChronoUnit.DAYS.between(monthlyPeriod.getFrom(), monthlyPeriod.getTo()) + 1);
+    }
+  }
+
+  @Test
+  void dayCountsOfThirty360() {
+
+    var proration = new Proration(DayCountConvention.THIRTY_360);
+
+    // 2021-01-30 -> 2021-03-01 -> 2021-03-30 -> 2021-04-30
+    assertThat(proration.dayCounts(new Period(LocalDate.parse("2021-01-30"), 3)))
+        .containsExactly(31, 29, 30);
+    // 2021-07-31 -> 2021-08-31 -> 2021-10-01
+    assertThat(proration.dayCounts(new Period(LocalDate.parse("2021-07-31"), 2)))
+        .containsExactly(30, 31);
+    assertThat(proration.dayCounts(new Period(LocalDate.parse("2020-02-01"), 12)))
+        .containsOnly(30);
+  }
+
+  @ParameterizedTest
+  @EnumSource(DayCountConvention.class)
+  void allocatedAmountsAddUpAndFollowDayCounts(DayCountConvention convention) {
+
+    var proration = new Proration(convention);
+    var period = new Period(LocalDate.parse("2020-01-31"), 13);
+    var dayCounts = proration.dayCounts(period);
+    var totalDays = Arrays.stream(dayCounts).sum();
+
+    for (var amount : new long[] {0, 1, 7, 100_000, 123_456_789, -100_001}) {
+
+      var allocated = proration.allocate(amount, period);
+
+      assertThat(Arrays.stream(allocated).sum()).isEqualTo(amount);
+      for (int i = 0; i < allocated.length; i++) {
+        assertThat(allocated[i] - Math.floorDiv(amount * dayCounts[i], totalDays)).isBetween(0L, 1L);
+      }
+    }
+  }
+
+  @Test
+  void remainderGoesToLargestFractionThenEarliestPeriod() {
+
+    // 2021-02-01 から 3 か月: 28 日、31 日、30 日(合計 89 日)
+    var period = new Period(LocalDate.parse("2021-02-01"), 3);
+    var proration = new Proration(DayCountConvention.ACTUAL);
+
+    // 100 * 28 / 89 = 31.46, 100 * 31 / 89 = 34.83, 100 * 30 / 89 = 33.70
+    assertThat(proration.allocate(100, period)).containsExactly(31, 35, 34);
+    // 2021-07-01 から 2 か月: 31 日、31 日 -> 端数が同じ場合は先の期間
+    assertThat(proration.allocate(1, new Period(LocalDate.parse("2021-07-01"), 2)))
+        .containsExactly(1, 0);
+  }
+
+  @Test
+  void bulkAllocationIsSameAsSingle() {
+
+    var contracts = new Contracts(LocalDate.parse("2020-01-01"), 1_000, c -> 1 + c % 25);
+    var amounts = new long[contracts.size()];
+
+    for (int c = 0; c < amounts.length; c++) {
+      amounts[c] = 1_000_000L + c * 7919L;
+    }
+
+    var batch = contracts.toBatch();
+    var offsets = batch.getOffsets();
+
+    for (var convention : DayCountConvention.values()) {
+
+      var proration = new Proration(convention);
+      var allocated = proration.allocate(amounts, batch);
+
+      for (int c = 0; c < contracts.size(); c++) {
+
+        var single = proration.allocate(amounts[c], contracts.toPeriod(c));
+
+        var parts = Arrays.copyOfRange(allocated, offsets[c] - c, offsets[c + 1] - c - 1);
+
+        assertThat(parts).containsExactly(single);
+        assertThat(Arrays.stream(parts).sum()).isEqualTo(amounts[c]);
+      }
+    }
+  }
+
+  @Test
+  void failureAllocateOverZeroMonths() {
+
+    var proration = new Proration(DayCountConvention.ACTUAL);
+    var from = LocalDate.parse("2020-01-01");
+
+    assertThrows(IllegalArgumentException.class, () -> proration.allocate(1000, new Period(from, 0)));
+    assertThrows(IllegalArgumentException.class, () -> proration.allocate(1000, new CompactPeriod(from, 0)));
+    assertThrows(IllegalArgumentException.class, () -> proration.allocate(new long[] {500, 100},
+        new PeriodBatch(new long[] {from.toEpochDay(), from.toEpochDay()}, new int[] {0, 2})));
+  }
+
+  @Test
+  void failureCreateOfProration() {
+
+    assertThrows(IllegalArgumentException.class, () -> new Proration(null));
+    assertThrows(IllegalArgumentException.class,
+        () -> new Proration(DayCountConvention.ACTUAL).allocate(new long[1], new PeriodBatch(new long[2], new int[2])));
+  }
+}
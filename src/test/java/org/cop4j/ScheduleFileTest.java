@@ -0,0 +1,82 @@
+package org.cop4j;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ScheduleFileTest {
+
+  @Test
+  void roundTrip(@TempDir Path dir) throws IOException {
+
+    var contracts = new Contracts(LocalDate.parse("2020-01-01"), 3_000, c -> c % 601);
+    var size = contracts.size();
+
+    var file = dir.resolve("schedules.bin");
+    ScheduleFile.write(file, contracts.toBatch());
+
+    var schedules = ScheduleFile.open(file);
+
+    assertThat(schedules.size()).isEqualTo(size);
+
+    for (int c = 0; c < size; c++) {
+
+      var period = contracts.toPeriod(c);
+
+      assertThat(schedules.getFrom(c)).isEqualTo(period.getFrom());
+      assertThat(schedules.getNumberOfMonths(c)).isEqualTo(period.getNumberOfMonths());
+
+      for (int i = 0; i < period.getNumberOfMonths(); i++) {
+
+        var expected = period.getMonthlyPeriods().get(i);
+        var actual = schedules.getMonthlyPeriod(c, i);
+
+        assertThat(actual.getMonths()).isEqualTo(expected.getMonths());
+        assertThat(actual.getFrom()).isEqualTo(expected.getFrom());
+        assertThat(actual.getTo()).isEqualTo(expected.getTo());
+        assertThat(schedules.fromEpochDay(c, i)).isEqualTo(period.fromEpochDay(i));
+        assertThat(schedules.toEpochDay(c, i)).isEqualTo(period.toEpochDay(i));
+      }
+    }
+
+    assertThrows(IndexOutOfBoundsException.class, () -> schedules.fromEpochDay(size, 0));
+    assertThrows(IndexOutOfBoundsException.class, () -> schedules.fromEpochDay(1, 1));
+  }
+
+  @Test
+  void failureWriteOfTooLongSchedule(@TempDir Path dir) {
+
+    var batch = new PeriodBatch(new long[] {LocalDate.parse("2020-01-01").toEpochDay()}, new int[] {2200});
+
+    assertThrows(IllegalArgumentException.class, () -> ScheduleFile.write(dir.resolve("long.bin"), batch));
+  }
+
+  @Test
+  void failureOpenOfScheduleFile(@TempDir Path dir) throws IOException {
+
+    var file = dir.resolve("broken.bin");
+    Files.write(file, new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12});
+
+    assertThrows(IllegalArgumentException.class, () -> ScheduleFile.open(file));
+
+    // 途中で切れたファイル
+    var truncated = dir.resolve("truncated.bin");
+    ScheduleFile.write(truncated, new Contracts(LocalDate.parse("2020-01-01"), 10, c -> 12).toBatch());
+    var bytes = Files.readAllBytes(truncated);
+    Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 2));
+
+    assertThrows(IllegalArgumentException.class, () -> ScheduleFile.open(truncated));
+
+    // 索引が途中で切れたファイル
+    Files.write(truncated, Arrays.copyOf(bytes, 20));
+
+    assertThrows(IllegalArgumentException.class, () -> ScheduleFile.open(truncated));
+  }
+}